@@ -1,14 +1,23 @@
 package io.github.barnardb.infrajav.grpc;
 
+import com.google.common.collect.ImmutableList;
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
 import io.grpc.NameResolver;
+import io.grpc.Status;
 import io.grpc.internal.GrpcUtil;
 import io.grpc.internal.SharedResourceHolder;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,12 +35,35 @@ public class ActiveNameResolver extends NameResolver {
     private final ScheduledExecutorService scheduledExecutorService;
     private final int maxRefreshInterval;
     private final TimeUnit timeUnit;
+    private final URI target;
+    private final Consumer<? super ActiveNameResolver> onShutdown;
 
     @GuardedBy("this")
     private ScheduledFuture<?> scheduledRefresh;
     @GuardedBy("this")
     private boolean shutdown;
 
+    /**
+     * Guards the diagnostic state below. Never held while calling out of this class, so that recording results from
+     * the underlying resolver's callbacks can't deadlock with a thread holding {@code this} while calling into it.
+     */
+    private final Object statusLock = new Object();
+
+    @GuardedBy("statusLock")
+    private List<EquivalentAddressGroup> addresses = ImmutableList.of();
+    @GuardedBy("statusLock")
+    private Instant lastRefreshTime;
+    @GuardedBy("statusLock")
+    private Duration lastRefreshDuration;
+    @GuardedBy("statusLock")
+    private Status lastRefreshOutcome;
+    @GuardedBy("statusLock")
+    private Instant refreshPendingSince;
+    @GuardedBy("statusLock")
+    private long refreshPendingSinceNanos;
+    @GuardedBy("statusLock")
+    private Instant nextScheduledRefresh;
+
     /**
      * Creates a new ActiveNameResolver.
      *
@@ -41,6 +73,10 @@ public class ActiveNameResolver extends NameResolver {
      * @param timeUnit                 the time unit for the {@code maxRefreshInterval}
      */
     public ActiveNameResolver(NameResolver underlyingNameResolver, @Nullable ScheduledExecutorService scheduledExecutorService, int maxRefreshInterval, TimeUnit timeUnit) {
+        this(underlyingNameResolver, scheduledExecutorService, maxRefreshInterval, timeUnit, null, resolver -> {});
+    }
+
+    ActiveNameResolver(NameResolver underlyingNameResolver, @Nullable ScheduledExecutorService scheduledExecutorService, int maxRefreshInterval, TimeUnit timeUnit, @Nullable URI target, Consumer<? super ActiveNameResolver> onShutdown) {
         this.underlyingNameResolver = underlyingNameResolver;
         this.isUsingSharedTimerService = scheduledExecutorService == null;
         this.scheduledExecutorService = isUsingSharedTimerService
@@ -48,6 +84,8 @@ public class ActiveNameResolver extends NameResolver {
                 : scheduledExecutorService;
         this.maxRefreshInterval = maxRefreshInterval;
         this.timeUnit = timeUnit;
+        this.target = target;
+        this.onShutdown = onShutdown;
     }
 
     @Override
@@ -59,7 +97,8 @@ public class ActiveNameResolver extends NameResolver {
     public synchronized void start(Listener listener) {
         checkState(!shutdown, "already shutdown");
         checkState(scheduledRefresh == null, "already started");
-        underlyingNameResolver.start(listener);
+        markRefreshPending();
+        underlyingNameResolver.start(new RecordingListener(listener));
         scheduleRefresh();
     }
 
@@ -71,6 +110,7 @@ public class ActiveNameResolver extends NameResolver {
         scheduledRefresh.cancel(false);
 
         logger.log(Level.FINE, "Triggering explicitly requested refresh");
+        markRefreshPending();
         underlyingNameResolver.refresh();
         scheduleRefresh();
     }
@@ -84,14 +124,64 @@ public class ActiveNameResolver extends NameResolver {
         if (scheduledRefresh != null) {
             scheduledRefresh.cancel(false);
         }
+        synchronized (statusLock) {
+            nextScheduledRefresh = null;
+        }
         if (isUsingSharedTimerService) {
             SharedResourceHolder.release(GrpcUtil.TIMER_SERVICE, scheduledExecutorService);
         }
         underlyingNameResolver.shutdown();
+        onShutdown.accept(this);
+    }
+
+    /**
+     * Takes a snapshot of this resolver's current addresses and refresh history, for diagnostic purposes.
+     *
+     * @return the current status of this resolver
+     */
+    public ActiveNameResolverStatus getStatus() {
+        String serviceAuthority = getServiceAuthority();
+        synchronized (statusLock) {
+            return new ActiveNameResolverStatus(
+                    target,
+                    serviceAuthority,
+                    addresses,
+                    lastRefreshTime,
+                    lastRefreshDuration,
+                    lastRefreshOutcome,
+                    refreshPendingSince,
+                    nextScheduledRefresh);
+        }
     }
 
     private void scheduleRefresh() {
         this.scheduledRefresh = scheduledExecutorService.schedule(this::performScheduledRefresh, maxRefreshInterval, timeUnit);
+        synchronized (statusLock) {
+            this.nextScheduledRefresh = Instant.now().plusNanos(timeUnit.toNanos(maxRefreshInterval));
+        }
+    }
+
+    private void markRefreshPending() {
+        synchronized (statusLock) {
+            if (refreshPendingSince == null) {
+                refreshPendingSince = Instant.now();
+                refreshPendingSinceNanos = System.nanoTime();
+            }
+        }
+    }
+
+    private void recordRefreshResult(@Nullable List<EquivalentAddressGroup> newAddresses, Status outcome) {
+        synchronized (statusLock) {
+            lastRefreshTime = Instant.now();
+            lastRefreshDuration = refreshPendingSince == null
+                    ? null
+                    : Duration.ofNanos(System.nanoTime() - refreshPendingSinceNanos);
+            lastRefreshOutcome = outcome;
+            refreshPendingSince = null;
+            if (newAddresses != null) {
+                addresses = newAddresses;
+            }
+        }
     }
 
     private synchronized void performScheduledRefresh() {
@@ -99,8 +189,32 @@ public class ActiveNameResolver extends NameResolver {
             return;
         }
         logger.log(Level.FINE, "Triggering scheduled refresh");
+        markRefreshPending();
         underlyingNameResolver.refresh();
         scheduleRefresh();
     }
 
+    /**
+     * Records the results reported by the underlying resolver before passing them on to the channel's listener.
+     */
+    private class RecordingListener implements Listener {
+        private final Listener delegate;
+
+        RecordingListener(Listener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onAddresses(List<EquivalentAddressGroup> servers, Attributes attributes) {
+            recordRefreshResult(servers, Status.OK);
+            delegate.onAddresses(servers, attributes);
+        }
+
+        @Override
+        public void onError(Status error) {
+            recordRefreshResult(null, error);
+            delegate.onError(error);
+        }
+    }
+
 }
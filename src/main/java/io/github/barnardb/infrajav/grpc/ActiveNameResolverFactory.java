@@ -1,5 +1,6 @@
 package io.github.barnardb.infrajav.grpc;
 
+import com.google.common.collect.ImmutableList;
 import io.grpc.Attributes;
 import io.grpc.NameResolver;
 import io.grpc.NameResolverProvider;
@@ -7,8 +8,14 @@ import io.grpc.internal.GrpcUtil;
 
 import javax.annotation.Nullable;
 import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * A factory for {@link ActiveNameResolver}s.
@@ -19,6 +26,8 @@ public class ActiveNameResolverFactory extends NameResolver.Factory {
     private final ScheduledExecutorService scheduledExecutorService;
     private final int maxRefreshInterval;
     private final TimeUnit timeUnit;
+    private final AtomicLong resolversCreated = new AtomicLong();
+    private final Map<ActiveNameResolver, Long> liveResolvers = new ConcurrentHashMap<>();
 
     /**
      * Creates a new ActiveNameResolver using the default NameResolverProvider the shared GRPC {@link GrpcUtil#TIMER_SERVICE}.
@@ -60,9 +69,27 @@ public class ActiveNameResolverFactory extends NameResolver.Factory {
     @Override
     public NameResolver newNameResolver(URI targetUri, Attributes params) {
         NameResolver underlyingNameResolver = underlyingFactory.newNameResolver(targetUri, params);
-        return underlyingNameResolver == null
-                ? null
-                : new ActiveNameResolver(underlyingNameResolver, scheduledExecutorService, maxRefreshInterval, timeUnit);
+        if (underlyingNameResolver == null) {
+            return null;
+        }
+        ActiveNameResolver resolver = new ActiveNameResolver(underlyingNameResolver, scheduledExecutorService, maxRefreshInterval, timeUnit, targetUri, liveResolvers::remove);
+        liveResolvers.put(resolver, resolversCreated.getAndIncrement());
+        return resolver;
+    }
+
+    /**
+     * Takes a snapshot of the state of every resolver created by this factory that hasn't yet been shut down.
+     * <p>
+     * Useful for diagnosing stale routing, e.g. by exposing the result on a debug or status endpoint.
+     *
+     * @return the current status of each live resolver, ordered by target and then by creation order
+     */
+    public List<ActiveNameResolverStatus> getResolverStatuses() {
+        return liveResolvers.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> entry.getKey().getStatus())
+                .sorted(Comparator.comparing(ActiveNameResolverStatus::getTarget, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
     }
 
     @Override
@@ -0,0 +1,128 @@
+package io.github.barnardb.infrajav.grpc;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.Status;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A point-in-time snapshot of the state of an {@link ActiveNameResolver}, for diagnostic purposes.
+ */
+@Immutable
+public final class ActiveNameResolverStatus {
+
+    private final URI target;
+    private final String serviceAuthority;
+    private final List<EquivalentAddressGroup> addresses;
+    private final Instant lastRefreshTime;
+    private final Duration lastRefreshDuration;
+    private final Status lastRefreshOutcome;
+    private final Instant refreshPendingSince;
+    private final Instant nextScheduledRefresh;
+
+    ActiveNameResolverStatus(
+            @Nullable URI target,
+            String serviceAuthority,
+            List<EquivalentAddressGroup> addresses,
+            @Nullable Instant lastRefreshTime,
+            @Nullable Duration lastRefreshDuration,
+            @Nullable Status lastRefreshOutcome,
+            @Nullable Instant refreshPendingSince,
+            @Nullable Instant nextScheduledRefresh) {
+        this.target = target;
+        this.serviceAuthority = serviceAuthority;
+        this.addresses = ImmutableList.copyOf(addresses);
+        this.lastRefreshTime = lastRefreshTime;
+        this.lastRefreshDuration = lastRefreshDuration;
+        this.lastRefreshOutcome = lastRefreshOutcome;
+        this.refreshPendingSince = refreshPendingSince;
+        this.nextScheduledRefresh = nextScheduledRefresh;
+    }
+
+    /**
+     * @return the target URI the resolver was created for, or null if it wasn't created by an {@link ActiveNameResolverFactory}
+     */
+    @Nullable
+    public URI getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the service authority reported by the underlying resolver
+     */
+    public String getServiceAuthority() {
+        return serviceAuthority;
+    }
+
+    /**
+     * @return the addresses most recently returned by the underlying resolver; empty if none have been returned yet
+     */
+    public List<EquivalentAddressGroup> getAddresses() {
+        return addresses;
+    }
+
+    /**
+     * @return when the underlying resolver last reported addresses or an error, or null if it hasn't yet done so
+     */
+    @Nullable
+    public Instant getLastRefreshTime() {
+        return lastRefreshTime;
+    }
+
+    /**
+     * Refreshes triggered while an earlier one is still awaiting a result are folded into it, so this is measured from
+     * the first outstanding trigger until the next result of any kind from the underlying resolver, including results
+     * it reports on its own initiative.
+     *
+     * @return how long the last refresh took, or null if no refresh was outstanding when the last result arrived
+     */
+    @Nullable
+    public Duration getLastRefreshDuration() {
+        return lastRefreshDuration;
+    }
+
+    /**
+     * @return {@link Status#OK} if the last refresh returned addresses, the reported error if it failed, or null if no refresh has completed yet
+     */
+    @Nullable
+    public Status getLastRefreshOutcome() {
+        return lastRefreshOutcome;
+    }
+
+    /**
+     * @return when the earliest refresh still awaiting a result was triggered, or null if no refresh is awaiting a result
+     */
+    @Nullable
+    public Instant getRefreshPendingSince() {
+        return refreshPendingSince;
+    }
+
+    /**
+     * @return when the next scheduled refresh will be triggered, or null if the resolver hasn't been started or has been shut down
+     */
+    @Nullable
+    public Instant getNextScheduledRefresh() {
+        return nextScheduledRefresh;
+    }
+
+    @Override
+    public String toString() {
+        return "ActiveNameResolverStatus{" +
+                "target=" + target +
+                ", serviceAuthority=" + serviceAuthority +
+                ", addresses=" + addresses +
+                ", lastRefreshTime=" + lastRefreshTime +
+                ", lastRefreshDuration=" + lastRefreshDuration +
+                ", lastRefreshOutcome=" + lastRefreshOutcome +
+                ", refreshPendingSince=" + refreshPendingSince +
+                ", nextScheduledRefresh=" + nextScheduledRefresh +
+                '}';
+    }
+
+}
@@ -1,10 +1,13 @@
 package io.github.barnardb.infrajav.grpc.test;
 
+import com.google.common.collect.ImmutableList;
 import io.github.barnardb.infrajav.grpc.ActiveNameResolver;
 import io.github.barnardb.infrajav.grpc.ActiveNameResolverFactory;
+import io.github.barnardb.infrajav.grpc.ActiveNameResolverStatus;
 import io.grpc.Attributes;
 import io.grpc.EquivalentAddressGroup;
 import io.grpc.NameResolver;
+import io.grpc.Status;
 import io.grpc.internal.DnsNameResolverProvider;
 import io.grpc.internal.TestDnsNameResolverFactory;
 import org.junit.jupiter.api.Test;
@@ -12,7 +15,11 @@ import org.junit.jupiter.api.Test;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.awaitility.Awaitility.waitAtMost;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -131,6 +138,144 @@ class ActiveNameResolverTest {
         }
     }
 
+    @Test
+    public void shouldReportStatusOfLiveResolvers() throws Exception {
+        LocalhostResolverFactory underlyingFactory = new LocalhostResolverFactory();
+        underlyingFactory.setPorts("test-target", 1234);
+
+        ActiveNameResolverFactory factory = new ActiveNameResolverFactory(underlyingFactory, 100, TimeUnit.SECONDS);
+        assertThat(factory.getResolverStatuses(), empty());
+
+        ActiveNameResolver nameResolver = (ActiveNameResolver) factory.newNameResolver(new URI("test-target"), null);
+        try {
+            CapturingListener listener = new CapturingListener();
+            Instant beforeStart = Instant.now();
+            nameResolver.start(listener);
+
+            List<ActiveNameResolverStatus> statuses = factory.getResolverStatuses();
+            assertThat(statuses, hasSize(1));
+            ActiveNameResolverStatus status = statuses.get(0);
+            assertAll("Reports resolved state",
+                    () -> assertThat("target", status.getTarget(), is(new URI("test-target"))),
+                    () -> assertThat("addresses match those passed to the listener", status.getAddresses(), is(listener.servers)),
+                    () -> assertThat("addresses", status.getAddresses(), contains(new EquivalentAddressGroup(new InetSocketAddress(1234)))),
+                    () -> assertThat("lastRefreshTime", status.getLastRefreshTime(), greaterThanOrEqualTo(beforeStart)),
+                    () -> assertThat("lastRefreshDuration", status.getLastRefreshDuration(), notNullValue()),
+                    () -> assertThat("lastRefreshOutcome", status.getLastRefreshOutcome(), is(Status.OK)),
+                    () -> assertThat("refreshPendingSince", status.getRefreshPendingSince(), nullValue()),
+                    () -> assertThat("nextScheduledRefresh", status.getNextScheduledRefresh(), greaterThan(beforeStart.plusSeconds(99)))
+            );
+
+            underlyingFactory.setPorts("test-target", 1234, 5678);
+            nameResolver.refresh();
+
+            assertThat(nameResolver.getStatus().getAddresses(), contains(
+                    new EquivalentAddressGroup(new InetSocketAddress(1234)),
+                    new EquivalentAddressGroup(new InetSocketAddress(5678))));
+        } finally {
+            nameResolver.shutdown();
+        }
+        assertThat(factory.getResolverStatuses(), empty());
+    }
+
+    @Test
+    public void shouldListResolverStatusesByTargetThenCreationOrder() throws Exception {
+        ActiveNameResolverFactory factory = new ActiveNameResolverFactory(new ManualResolverFactory(), 100, TimeUnit.SECONDS);
+
+        NameResolver firstB = factory.newNameResolver(new URI("b"), null);
+        NameResolver a = factory.newNameResolver(new URI("a"), null);
+        NameResolver secondB = factory.newNameResolver(new URI("b"), null);
+        try {
+            List<ActiveNameResolverStatus> statuses = factory.getResolverStatuses();
+            assertThat(statuses.stream().map(ActiveNameResolverStatus::getTarget).collect(Collectors.toList()),
+                    contains(new URI("a"), new URI("b"), new URI("b")));
+            assertThat(statuses.get(1).getNextScheduledRefresh(), nullValue());
+
+            secondB.start(new CapturingListener());
+            List<ActiveNameResolverStatus> afterStart = factory.getResolverStatuses();
+            assertAll("Keeps creation order within a target",
+                    () -> assertThat("first b", afterStart.get(1).getNextScheduledRefresh(), nullValue()),
+                    () -> assertThat("second b", afterStart.get(2).getNextScheduledRefresh(), notNullValue())
+            );
+        } finally {
+            firstB.shutdown();
+            a.shutdown();
+            secondB.shutdown();
+        }
+        assertThat(factory.getResolverStatuses(), empty());
+    }
+
+    @Test
+    public void shouldReportPendingRefreshesAndErrors() throws Exception {
+        ManualResolverFactory underlyingFactory = new ManualResolverFactory();
+        ActiveNameResolverFactory factory = new ActiveNameResolverFactory(underlyingFactory, 100, TimeUnit.SECONDS);
+
+        ActiveNameResolver nameResolver = (ActiveNameResolver) factory.newNameResolver(new URI("test-target"), null);
+        try {
+            CapturingListener listener = new CapturingListener();
+            nameResolver.start(listener);
+
+            ActiveNameResolverStatus pending = nameResolver.getStatus();
+            assertAll("Reports initial resolution as pending",
+                    () -> assertThat("addresses", pending.getAddresses(), empty()),
+                    () -> assertThat("lastRefreshTime", pending.getLastRefreshTime(), nullValue()),
+                    () -> assertThat("lastRefreshOutcome", pending.getLastRefreshOutcome(), nullValue()),
+                    () -> assertThat("refreshPendingSince", pending.getRefreshPendingSince(), notNullValue())
+            );
+
+            EquivalentAddressGroup initialAddress = new EquivalentAddressGroup(new InetSocketAddress(1234));
+            List<EquivalentAddressGroup> reportedAddresses = new ArrayList<>();
+            reportedAddresses.add(initialAddress);
+            underlyingFactory.listener.onAddresses(reportedAddresses, Attributes.EMPTY);
+
+            ActiveNameResolverStatus resolved = nameResolver.getStatus();
+            reportedAddresses.add(new EquivalentAddressGroup(new InetSocketAddress(5678)));
+            assertAll("Reports resolved state",
+                    () -> assertThat("addresses are unaffected by later changes to the reported list", resolved.getAddresses(), contains(initialAddress)),
+                    () -> assertThat("lastRefreshOutcome", resolved.getLastRefreshOutcome(), is(Status.OK)),
+                    () -> assertThat("refreshPendingSince", resolved.getRefreshPendingSince(), nullValue())
+            );
+
+            nameResolver.refresh();
+
+            ActiveNameResolverStatus refreshing = nameResolver.getStatus();
+            assertAll("Reports explicit refresh as pending",
+                    () -> assertThat("refreshPendingSince", refreshing.getRefreshPendingSince(), greaterThanOrEqualTo(resolved.getLastRefreshTime())),
+                    () -> assertThat("nextScheduledRefresh", refreshing.getNextScheduledRefresh(), greaterThanOrEqualTo(resolved.getNextScheduledRefresh())),
+                    () -> assertThat("nextScheduledRefresh is rescheduled from the refresh", refreshing.getNextScheduledRefresh(), greaterThanOrEqualTo(refreshing.getRefreshPendingSince().plusSeconds(100)))
+            );
+
+            nameResolver.refresh();
+
+            assertThat("refreshPendingSince is kept from the first outstanding trigger",
+                    nameResolver.getStatus().getRefreshPendingSince(), is(refreshing.getRefreshPendingSince()));
+
+            underlyingFactory.listener.onError(Status.UNAVAILABLE);
+
+            ActiveNameResolverStatus failed = nameResolver.getStatus();
+            assertAll("Reports failed refresh",
+                    () -> assertThat("addresses are retained", failed.getAddresses(), contains(initialAddress)),
+                    () -> assertThat("lastRefreshTime", failed.getLastRefreshTime(), greaterThanOrEqualTo(refreshing.getRefreshPendingSince())),
+                    () -> assertThat("lastRefreshDuration", failed.getLastRefreshDuration(), notNullValue()),
+                    () -> assertThat("lastRefreshOutcome", failed.getLastRefreshOutcome(), is(Status.UNAVAILABLE)),
+                    () -> assertThat("refreshPendingSince", failed.getRefreshPendingSince(), nullValue()),
+                    () -> assertThat("error passed to the listener", listener.error, is(Status.UNAVAILABLE))
+            );
+
+            EquivalentAddressGroup pushedAddress = new EquivalentAddressGroup(new InetSocketAddress(5678));
+            underlyingFactory.listener.onAddresses(ImmutableList.of(pushedAddress), Attributes.EMPTY);
+
+            ActiveNameResolverStatus pushed = nameResolver.getStatus();
+            assertAll("Reports result the underlying resolver reported on its own",
+                    () -> assertThat("addresses", pushed.getAddresses(), contains(pushedAddress)),
+                    () -> assertThat("lastRefreshDuration", pushed.getLastRefreshDuration(), nullValue()),
+                    () -> assertThat("lastRefreshOutcome", pushed.getLastRefreshOutcome(), is(Status.OK))
+            );
+        } finally {
+            nameResolver.shutdown();
+        }
+    }
+
     @Test
     public void shouldHandleNullResolversFromTheUnderlyingFactory() throws Exception {
         DnsNameResolverProvider underlyingFactory = new DnsNameResolverProvider();
@@ -0,0 +1,47 @@
+package io.github.barnardb.infrajav.grpc.test;
+
+import io.grpc.Attributes;
+import io.grpc.NameResolver;
+
+import javax.annotation.Nullable;
+import java.net.URI;
+
+/**
+ * Creates NameResolvers that only report results when the test tells their listener to.
+ * <p>
+ * Useful for tests that need to observe a resolver while a refresh is outstanding, or that need to report errors.
+ */
+class ManualResolverFactory extends NameResolver.Factory {
+    volatile NameResolver.Listener listener;
+
+    @Nullable
+    @Override
+    public NameResolver newNameResolver(URI targetUri, Attributes params) {
+        return new NameResolver() {
+            @Override
+            public String getServiceAuthority() {
+                return "localhost";
+            }
+
+            @Override
+            public void start(Listener listener) {
+                ManualResolverFactory.this.listener = listener;
+            }
+
+            @Override
+            public void refresh() {
+                // results are only reported when the test calls the listener
+            }
+
+            @Override
+            public void shutdown() {
+                // nothing to do
+            }
+        };
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return null;
+    }
+}